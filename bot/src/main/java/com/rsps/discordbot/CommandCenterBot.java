@@ -1,5 +1,6 @@
 package com.rsps.discordbot;
 
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.commands.Command;
 import com.rsps.discordbot.commands.CommandManager;
 import com.rsps.discordbot.config.BotConfig;
@@ -26,6 +27,7 @@ public class CommandCenterBot {
 
     private static JDA jda;
     private static BotConfig botConfig;
+    private static GameServerClientRegistry clientRegistry;
     private static CommandManager commandManager;
     private static YellServer yellServer;
     private static GameStatsPoller statsPoller;
@@ -52,6 +54,9 @@ public class CommandCenterBot {
             // Initialize ChannelMapper with servers (respects testing mode)
             ChannelMapper.initialize(servers);
 
+            // Shared pooled HTTP clients, one per game server
+            clientRegistry = new GameServerClientRegistry(botConfig);
+
             // Build JDA instance first (needed for YellServer)
             jda = JDABuilder.createDefault(botConfig.getBotToken())
                     .setStatus(OnlineStatus.ONLINE)
@@ -74,14 +79,14 @@ public class CommandCenterBot {
             yellServer.start();
 
             // Create command manager (needs YellServer's message queue)
-            commandManager = new CommandManager(botConfig, yellServer.getMessageQueue());
+            commandManager = new CommandManager(botConfig, clientRegistry, yellServer.getMessageQueue());
             System.out.println("Command manager initialized");
 
             // Add command manager as event listener
             jda.addEventListener(commandManager);
 
             // Add yell channel listener for Discord -> Game yells
-            YellChannelListener yellChannelListener = new YellChannelListener(botConfig, servers);
+            YellChannelListener yellChannelListener = new YellChannelListener(botConfig, clientRegistry, servers);
             jda.addEventListener(yellChannelListener);
             System.out.println("Yell channel listener initialized");
 
@@ -89,7 +94,7 @@ public class CommandCenterBot {
             registerSlashCommands();
 
             // Start stats poller (pass servers list with testing mode already applied)
-            statsPoller = new GameStatsPoller(jda, botConfig, servers);
+            statsPoller = new GameStatsPoller(jda, botConfig, clientRegistry, servers);
             statsPoller.start();
             System.out.println("Stats poller initialized");
 
@@ -110,6 +115,9 @@ public class CommandCenterBot {
             if (yellServer != null) {
                 yellServer.stop();
             }
+            if (clientRegistry != null) {
+                clientRegistry.closeAll();
+            }
             if (jda != null) {
                 jda.shutdown();
             }
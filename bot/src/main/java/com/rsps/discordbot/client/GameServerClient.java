@@ -2,11 +2,18 @@ package com.rsps.discordbot.client;
 
 import com.google.gson.Gson;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -15,11 +22,21 @@ import java.util.Map;
 /**
  * HTTP Client for communicating with the game server
  * Handles all POST requests to the server API with API key authentication
+ *
+ * Instances are long-lived and shared through {@link GameServerClientRegistry};
+ * connections are pooled and kept alive between requests
  */
 public class GameServerClient {
 
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;  // Concurrent requests to one game server
+    private static final int MAX_CONNECTIONS_TOTAL = 20;
+    private static final long IDLE_EVICTION_SECONDS = 30;  // Close pooled connections idle longer than this
+    private static final long CONNECTION_TTL_MINUTES = 5;  // Recycle connections periodically
+    private static final long VALIDATE_AFTER_INACTIVITY_SECONDS = 2;  // Re-check stale connections before reuse
+
     private final String serverUrl;
     private final String apiKey;
+    private final PoolingHttpClientConnectionManager connectionManager;
     private final CloseableHttpClient httpClient;
     private final Gson gson;
 
@@ -27,14 +44,30 @@ public class GameServerClient {
         this.serverUrl = serverUrl.endsWith("/") ? serverUrl.substring(0, serverUrl.length() - 1) : serverUrl;
         this.apiKey = apiKey;
 
-        // Configure HTTP client with timeouts to prevent hanging on offline servers
-        org.apache.hc.client5.http.config.RequestConfig requestConfig = org.apache.hc.client5.http.config.RequestConfig.custom()
-                .setConnectTimeout(5, java.util.concurrent.TimeUnit.SECONDS)  // 5 second connection timeout
-                .setResponseTimeout(10, java.util.concurrent.TimeUnit.SECONDS) // 10 second response timeout
+        // Pooled connections with timeouts to prevent hanging on offline servers
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofSeconds(5))  // 5 second connection timeout
+                .setSocketTimeout(Timeout.ofSeconds(10))
+                .setTimeToLive(TimeValue.ofMinutes(CONNECTION_TTL_MINUTES))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(VALIDATE_AFTER_INACTIVITY_SECONDS))
+                .build();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(MAX_CONNECTIONS_PER_ROUTE)
+                .setMaxConnTotal(MAX_CONNECTIONS_TOTAL)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofSeconds(5))  // Max wait for a free pooled connection
+                .setResponseTimeout(Timeout.ofSeconds(10)) // 10 second response timeout
                 .build();
 
         this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
                 .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(TimeValue.ofSeconds(IDLE_EVICTION_SECONDS))
+                .evictExpiredConnections()
                 .build();
 
         this.gson = new Gson();
@@ -447,11 +480,11 @@ public class GameServerClient {
         try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
             int statusCode = response.getCode();
 
-            // Read response body
+            // Read response body (fully consumed so the connection returns to the pool)
             String responseBody = "";
             if (response.getEntity() != null) {
                 try {
-                    responseBody = new String(response.getEntity().getContent().readAllBytes());
+                    responseBody = EntityUtils.toString(response.getEntity(), java.nio.charset.StandardCharsets.UTF_8);
                 } catch (Exception e) {
                     responseBody = "";
                 }
@@ -526,7 +559,18 @@ public class GameServerClient {
     }
 
     /**
-     * Close the HTTP client
+     * Get the number of pooled connections currently leased and available
+     *
+     * @return Pool statistics in the form "leased/available/max"
+     */
+    public String getPoolStats() {
+        org.apache.hc.core5.pool.PoolStats stats = connectionManager.getTotalStats();
+        return stats.getLeased() + "/" + stats.getAvailable() + "/" + stats.getMax();
+    }
+
+    /**
+     * Close the HTTP client and its connection pool
+     * Only the owning {@link GameServerClientRegistry} should call this
      */
     public void close() {
         try {
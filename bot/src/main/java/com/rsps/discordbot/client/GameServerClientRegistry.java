@@ -0,0 +1,49 @@
+package com.rsps.discordbot.client;
+
+import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.config.ServerConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of shared game server clients, one per configured server
+ * Clients are created lazily and reuse their pooled keep-alive connections across
+ * commands, the stats poller and the yell listener instead of being built per call
+ */
+public class GameServerClientRegistry {
+
+    private final BotConfig botConfig;
+    private final Map<String, GameServerClient> clients;  // Map of server name to client
+
+    public GameServerClientRegistry(BotConfig botConfig) {
+        this.botConfig = botConfig;
+        this.clients = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get the shared client for a server, creating it on first use
+     * Uses the server-specific API key with fallback to the global key
+     *
+     * @param server The server configuration
+     * @return The shared GameServerClient for this server (do not close it)
+     */
+    public GameServerClient getClient(ServerConfig server) {
+        return clients.computeIfAbsent(server.getName(), name -> {
+            String apiKey = server.getApiKey() != null ? server.getApiKey() : botConfig.getApiKey();
+            System.out.println("[Client Registry] Created pooled client for " + name + " (" + server.getUrl() + ")");
+            return new GameServerClient(server.getUrl(), apiKey);
+        });
+    }
+
+    /**
+     * Close all clients and release their pooled connections
+     */
+    public void closeAll() {
+        for (GameServerClient client : clients.values()) {
+            client.close();
+        }
+        clients.clear();
+        System.out.println("[Client Registry] Closed all pooled clients");
+    }
+}
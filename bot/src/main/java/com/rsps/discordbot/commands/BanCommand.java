@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -17,10 +17,10 @@ import java.awt.Color;
  */
 public class BanCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public BanCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public BanCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -47,8 +47,8 @@ public class BanCommand implements Command {
         String username = event.getOption("username").getAsString();
         Integer duration = event.getOption("duration") != null ? event.getOption("duration").getAsInt() : 7; // Default 7 days
 
-        // Create client and execute command
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        // Get shared pooled client and execute command
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             client.banPlayer(username, duration);
@@ -80,8 +80,6 @@ public class BanCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to ban player: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
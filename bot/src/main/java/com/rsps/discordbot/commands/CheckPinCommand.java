@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -18,10 +18,10 @@ import java.util.Map;
  */
 public class CheckPinCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public CheckPinCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public CheckPinCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -46,8 +46,8 @@ public class CheckPinCommand implements Command {
 
         String username = event.getOption("username").getAsString();
 
-        // Create client and execute command
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        // Get shared pooled client and execute command
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             Map<String, Object> response = client.checkPin(username);
@@ -67,8 +67,6 @@ public class CheckPinCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to check pin: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -17,10 +17,10 @@ import java.awt.Color;
  */
 public class ClearProgressCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public ClearProgressCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public ClearProgressCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -45,8 +45,8 @@ public class ClearProgressCommand implements Command {
 
         String username = event.getOption("username").getAsString();
 
-        // Create client and execute command
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        // Get shared pooled client and execute command
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             client.clearProgress(username);
@@ -63,8 +63,6 @@ public class ClearProgressCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to clear progress: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
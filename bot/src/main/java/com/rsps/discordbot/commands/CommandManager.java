@@ -1,5 +1,6 @@
 package com.rsps.discordbot.commands;
 
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.BotConfig;
 import com.rsps.discordbot.yell.YellMessageQueue;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -19,10 +20,12 @@ public class CommandManager extends ListenerAdapter {
 
     private final Map<String, Command> commands;
     private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
     private final YellMessageQueue yellMessageQueue;
 
-    public CommandManager(BotConfig botConfig, YellMessageQueue yellMessageQueue) {
+    public CommandManager(BotConfig botConfig, GameServerClientRegistry clientRegistry, YellMessageQueue yellMessageQueue) {
         this.botConfig = botConfig;
+        this.clientRegistry = clientRegistry;
         this.yellMessageQueue = yellMessageQueue;
         this.commands = new HashMap<>();
         registerCommands();
@@ -32,31 +35,31 @@ public class CommandManager extends ListenerAdapter {
      * Register all available commands
      */
     private void registerCommands() {
-        registerCommand(new GiveItemCommand(botConfig));
-        registerCommand(new GiveAllCommand(botConfig));
-        registerCommand(new MassBanCommand(botConfig));
-        registerCommand(new GiveOffersCommand(botConfig));
-        registerCommand(new SetPasswordCommand(botConfig));
-        registerCommand(new FindItemCommand(botConfig));
-        registerCommand(new MuteCommand(botConfig));
-        registerCommand(new CheckPinCommand(botConfig));
-        registerCommand(new ClearProgressCommand(botConfig));
-        registerCommand(new KickCommand(botConfig));
+        registerCommand(new GiveItemCommand(clientRegistry));
+        registerCommand(new GiveAllCommand(clientRegistry));
+        registerCommand(new MassBanCommand(clientRegistry));
+        registerCommand(new GiveOffersCommand(clientRegistry));
+        registerCommand(new SetPasswordCommand(clientRegistry));
+        registerCommand(new FindItemCommand(clientRegistry));
+        registerCommand(new MuteCommand(clientRegistry));
+        registerCommand(new CheckPinCommand(clientRegistry));
+        registerCommand(new ClearProgressCommand(clientRegistry));
+        registerCommand(new KickCommand(clientRegistry));
         registerCommand(new ClearMessagesCommand(yellMessageQueue));
         registerCommand(new RefreshCommandsCommand(this));
 
         // New commands
-        registerCommand(new UnmuteCommand(botConfig));
-        registerCommand(new UnbanCommand(botConfig));
-        registerCommand(new BanCommand(botConfig));
-        registerCommand(new SetPCommand(botConfig));
-        registerCommand(new AddPCommand(botConfig));
-        registerCommand(new RemovePCommand(botConfig));
-        registerCommand(new UpdateCommand(botConfig));
-        registerCommand(new DisableUpdateCommand(botConfig));
-        registerCommand(new ReleaseCommand(botConfig));
-        registerCommand(new ForceVbossCommand(botConfig));
-        registerCommand(new LoginAiCommand(botConfig));
+        registerCommand(new UnmuteCommand(clientRegistry));
+        registerCommand(new UnbanCommand(clientRegistry));
+        registerCommand(new BanCommand(clientRegistry));
+        registerCommand(new SetPCommand(clientRegistry));
+        registerCommand(new AddPCommand(clientRegistry));
+        registerCommand(new RemovePCommand(clientRegistry));
+        registerCommand(new UpdateCommand(clientRegistry));
+        registerCommand(new DisableUpdateCommand(clientRegistry));
+        registerCommand(new ReleaseCommand(clientRegistry));
+        registerCommand(new ForceVbossCommand(clientRegistry));
+        registerCommand(new LoginAiCommand(clientRegistry));
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -17,10 +17,10 @@ import java.awt.Color;
  */
 public class DisableUpdateCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public DisableUpdateCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public DisableUpdateCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -40,7 +40,7 @@ public class DisableUpdateCommand implements Command {
             return;
         }
 
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             client.disableUpdate();
@@ -56,8 +56,6 @@ public class DisableUpdateCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to cancel update: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -19,10 +19,10 @@ import java.util.Map;
  */
 public class FindItemCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public FindItemCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public FindItemCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -47,8 +47,8 @@ public class FindItemCommand implements Command {
 
         String itemName = event.getOption("name").getAsString();
 
-        // Create client and execute command
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        // Get shared pooled client and execute command
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             Map<String, Object> response = client.findItem(itemName);
@@ -97,8 +97,6 @@ public class FindItemCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to search items: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
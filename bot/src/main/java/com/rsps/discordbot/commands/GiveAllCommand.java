@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -18,10 +18,10 @@ import java.util.Map;
  */
 public class GiveAllCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public GiveAllCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public GiveAllCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -54,8 +54,8 @@ public class GiveAllCommand implements Command {
             return;
         }
 
-        // Create client and execute command
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        // Get shared pooled client and execute command
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             Map<String, Object> response = client.giveAll(itemId, amount);
@@ -80,8 +80,6 @@ public class GiveAllCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to give items: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
@@ -1,7 +1,7 @@
 package com.rsps.discordbot.commands;
 
 import com.rsps.discordbot.client.GameServerClient;
-import com.rsps.discordbot.config.BotConfig;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.ChannelMapper;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -17,10 +17,10 @@ import java.awt.Color;
  */
 public class GiveOffersCommand implements Command {
 
-    private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
 
-    public GiveOffersCommand(BotConfig botConfig) {
-        this.botConfig = botConfig;
+    public GiveOffersCommand(GameServerClientRegistry clientRegistry) {
+        this.clientRegistry = clientRegistry;
     }
 
     @Override
@@ -49,8 +49,8 @@ public class GiveOffersCommand implements Command {
         String offerType = event.getOption("offertype") != null ? event.getOption("offertype").getAsString() : "";
         String offerData = event.getOption("offerdata") != null ? event.getOption("offerdata").getAsString() : "";
 
-        // Create client and execute command
-        GameServerClient client = new GameServerClient(serverConfig.getUrl(), serverConfig.getApiKey() != null ? serverConfig.getApiKey() : botConfig.getApiKey());
+        // Get shared pooled client and execute command
+        GameServerClient client = clientRegistry.getClient(serverConfig);
 
         try {
             client.giveOffers(playerName, offerType, offerData);
@@ -70,8 +70,6 @@ public class GiveOffersCommand implements Command {
 
         } catch (Exception e) {
             event.getHook().sendMessageEmbeds(createErrorEmbed("Failed to give offers: " + e.getMessage())).queue();
-        } finally {
-            client.close();
         }
     }
 
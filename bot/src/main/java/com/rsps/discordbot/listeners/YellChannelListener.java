@@ -2,6 +2,7 @@ package com.rsps.discordbot.listeners;
 
 import com.google.gson.Gson;
 import com.rsps.discordbot.client.GameServerClient;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.BotConfig;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.entities.Message;
@@ -26,18 +27,16 @@ public class YellChannelListener extends ListenerAdapter {
     private final Map<String, GameServerClient> serverClients;
     private final Gson gson;
 
-    public YellChannelListener(BotConfig botConfig, List<ServerConfig> servers) {
+    public YellChannelListener(BotConfig botConfig, GameServerClientRegistry clientRegistry, List<ServerConfig> servers) {
         this.botConfig = botConfig;
         this.servers = servers;
         this.serverClients = new HashMap<>();
         this.gson = new Gson();
 
-        // Initialize game server clients for each server
+        // Map yell channels to the shared game server client for each server
         for (ServerConfig server : servers) {
             if (server.getYellChannelId() != null && !server.getYellChannelId().isEmpty()) {
-                // Use server-specific API key with fallback to global key
-                String apiKey = server.getApiKey() != null ? server.getApiKey() : botConfig.getApiKey();
-                GameServerClient client = new GameServerClient(server.getUrl(), apiKey);
+                GameServerClient client = clientRegistry.getClient(server);
                 serverClients.put(server.getYellChannelId(), client);
             }
         }
@@ -1,6 +1,7 @@
 package com.rsps.discordbot.stats;
 
 import com.rsps.discordbot.client.GameServerClient;
+import com.rsps.discordbot.client.GameServerClientRegistry;
 import com.rsps.discordbot.config.BotConfig;
 import com.rsps.discordbot.config.ServerConfig;
 import net.dv8tion.jda.api.EmbedBuilder;
@@ -27,15 +28,17 @@ public class GameStatsPoller {
 
     private final JDA jda;
     private final BotConfig botConfig;
+    private final GameServerClientRegistry clientRegistry;
     private final List<ServerConfig> servers;  // Servers list with testing mode already applied
     private final ScheduledExecutorService scheduler;
     private final Map<String, String> statsMessageIds;  // Map of server name to message ID
     private final Map<String, Long> lastUpdateTime;  // Map of server name to last update timestamp
     private final Map<String, Long> serverUptimeSeconds;  // Map of server name to uptime in seconds
 
-    public GameStatsPoller(JDA jda, BotConfig botConfig, List<ServerConfig> servers) {
+    public GameStatsPoller(JDA jda, BotConfig botConfig, GameServerClientRegistry clientRegistry, List<ServerConfig> servers) {
         this.jda = jda;
         this.botConfig = botConfig;
+        this.clientRegistry = clientRegistry;
         this.servers = servers;
         this.scheduler = Executors.newScheduledThreadPool(1);
         this.statsMessageIds = new HashMap<>();
@@ -168,11 +171,9 @@ public class GameStatsPoller {
         long currentUptimeSeconds = 0;
 
         try {
-            // Create client and fetch stats (use server-specific API key with fallback to global key)
-            String apiKey = server.getApiKey() != null ? server.getApiKey() : botConfig.getApiKey();
-            GameServerClient client = new GameServerClient(server.getUrl(), apiKey);
+            // Fetch stats through the shared pooled client for this server
+            GameServerClient client = clientRegistry.getClient(server);
             Map<String, Object> stats = client.getStats();
-            client.close();
 
             // Parse uptime to determine update interval
             String uptimeStr = getStringStat(stats, "uptime");